@@ -0,0 +1,57 @@
+package com.jparkie.hawleyretainer;
+
+import android.app.Activity;
+
+/**
+ * Opt-in contract for retained objects which hold a {@link android.content.Context Context}
+ * or {@link android.view.View View} such as adapters, image loaders, or
+ * presenters. When the object held by a field annotated with {@link com.jparkie.hawleyretainer.HawleyRetain HawleyRetain}
+ * implements this interface, regardless of the field's declared type, the
+ * generated retainer detaches it from the old
+ * {@link android.app.Activity Activity} upon saving during a configuration
+ * change and attaches it to the new {@link android.app.Activity Activity}
+ * upon restoring. As a result, its expensive internal state such as caches
+ * and parsed models is retained without leaking the old {@link android.app.Activity Activity}.
+ * The calls are not guaranteed to be paired: {@link #onAttachActivity(android.app.Activity) onAttachActivity}
+ * may be called without a prior {@link #onDetachActivity() onDetachActivity},
+ * for example, when a configuration change occurs after the state of a stopped
+ * {@link android.app.Activity Activity} was already saved.
+ * <pre>
+ *     <code>
+ *         public class ExampleAdapter extends BaseAdapter implements HawleyRebindable {
+ *             private Context mContext;
+ *
+ *             {@literal @}Override
+ *             public void onDetachActivity() {
+ *                 mContext = null;
+ *             }
+ *
+ *             {@literal @}Override
+ *             public void onAttachActivity(Activity activity) {
+ *                 mContext = activity; // Replaces any reference to the old Activity.
+ *             }
+ *         }
+ *     </code>
+ * </pre>
+ */
+public interface HawleyRebindable {
+    /**
+     * Release all references to the old {@link android.app.Activity Activity},
+     * its {@link android.content.Context Context}, and its {@link android.view.View View}s.
+     * Called by {@link com.jparkie.hawleyretainer.HawleyRetainer#saveRetainedObjectMap(Object, android.app.Activity) saveRetainedObjectMap}
+     * while the {@link android.app.Activity Activity} is changing configurations.
+     */
+    void onDetachActivity();
+
+    /**
+     * Reacquire any references from the new {@link android.app.Activity Activity}.
+     * This may be called without a prior {@link #onDetachActivity() onDetachActivity},
+     * so it must replace any existing references rather than assume they were
+     * released, e.g. unregister listeners before registering them again.
+     * Called by {@link com.jparkie.hawleyretainer.HawleyRetainer#restoreRetainedObjectMap(Object, android.app.Activity) restoreRetainedObjectMap}
+     * after the field is restored.
+     *
+     * @param activity {@link android.app.Activity Activity} to which the retained object is attached.
+     */
+    void onAttachActivity(Activity activity);
+}
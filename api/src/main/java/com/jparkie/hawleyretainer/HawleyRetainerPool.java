@@ -0,0 +1,125 @@
+package com.jparkie.hawleyretainer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded free list of reusable objects such as {@link android.graphics.Bitmap Bitmap},
+ * byte buffers, or parsers which can be retained across configuration changes.
+ * When annotated with {@link com.jparkie.hawleyretainer.HawleyRetain HawleyRetain},
+ * the pool is retained in the internal retained fragment map like any other
+ * field. As a result, a recreated {@link android.app.Activity Activity} can
+ * acquire the objects released by its predecessor instead of reallocating them.
+ * The pool is emptied when its retained fragment map observes the
+ * user-initiated destruction of its bound {@link android.app.Activity Activity}.
+ * <pre>
+ *     <code>
+ *         {@literal @}HawleyRetain
+ *         HawleyRetainerPool<byte[]> mBufferPool;
+ *
+ *         {@literal @}Override
+ *         public void onCreate(Bundle savedInstanceState) {
+ *             super.onCreate(savedInstanceState);
+ *             HawleyRetainer.restoreRetainedObjectMap(this, this);
+ *
+ *             if (mBufferPool == null) {
+ *                 mBufferPool = new HawleyRetainerPool<>(4);
+ *             }
+ *
+ *             byte[] buffer = mBufferPool.acquire();
+ *             if (buffer == null) {
+ *                 buffer = new byte[BUFFER_SIZE];
+ *             }
+ *         }
+ *     </code>
+ * </pre>
+ * All operations are synchronized such that objects may be acquired and
+ * released from background threads.
+ *
+ * @param <T> The type of the pooled objects.
+ */
+public final class HawleyRetainerPool<T> {
+    public static final String TAG = HawleyRetainerPool.class.getSimpleName();
+
+    private final int mCapacity;
+    private final Deque<T> mFreeObjects;
+
+    /**
+     * Create an empty pool which holds at most the specified number of free
+     * objects.
+     *
+     * @param capacity Maximum number of free objects held by the pool.
+     */
+    public HawleyRetainerPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(TAG + ": Provided capacity argument must be greater than 0.");
+        }
+
+        mCapacity = capacity;
+        mFreeObjects = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Acquire a free object from the pool.
+     *
+     * @return A previously released object or null if the pool is empty.
+     */
+    public synchronized T acquire() {
+        return mFreeObjects.pollFirst();
+    }
+
+    /**
+     * Release an object into the pool such that it can be acquired again.
+     * The object is dropped if the pool is already at capacity.
+     *
+     * @param object Object to be released into the pool.
+     * @return True if the object was pooled, false if the pool is full.
+     */
+    public synchronized boolean release(T object) {
+        if (object == null) {
+            throw new NullPointerException(TAG + ": Provided object argument cannot be null.");
+        }
+        if (isInPool(object)) {
+            throw new IllegalStateException(TAG + ": Provided object argument is already in the pool.");
+        }
+
+        if (mFreeObjects.size() >= mCapacity) {
+            return false;
+        }
+
+        mFreeObjects.offerFirst(object);
+
+        return true;
+    }
+
+    /**
+     * Remove all free objects from the pool.
+     */
+    public synchronized void clear() {
+        mFreeObjects.clear();
+    }
+
+    /**
+     * @return Number of free objects currently held by the pool.
+     */
+    public synchronized int size() {
+        return mFreeObjects.size();
+    }
+
+    /**
+     * @return Maximum number of free objects held by the pool.
+     */
+    public int capacity() {
+        return mCapacity;
+    }
+
+    private boolean isInPool(T object) {
+        for (T freeObject : mFreeObjects) {
+            if (freeObject == object) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -2,14 +2,28 @@ package com.jparkie.hawleyretainer.internal;
 
 import android.app.Activity;
 
+import com.jparkie.hawleyretainer.HawleyRebindable;
+
 public class Retainer {
     public static final String TAG = Retainer.class.getSimpleName();
 
     public Retainer() {}
 
+    public static void attachActivity(java.lang.Object retainedObject, Activity activity) {
+        if (retainedObject instanceof HawleyRebindable) {
+            ((HawleyRebindable)retainedObject).onAttachActivity(activity);
+        }
+    }
+
+    public static void detachActivity(java.lang.Object retainedObject, Activity activity) {
+        if (activity.isChangingConfigurations() && retainedObject instanceof HawleyRebindable) {
+            ((HawleyRebindable)retainedObject).onDetachActivity();
+        }
+    }
+
     public static class Object<T> extends Retainer {
         public void restoreRetainedObjectMap(T target, Activity activity) {}
 
         public void saveRetainedObjectMap(T target, Activity activity) {}
     }
-}
\ No newline at end of file
+}
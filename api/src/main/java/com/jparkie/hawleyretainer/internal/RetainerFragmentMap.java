@@ -5,6 +5,8 @@ import android.app.Fragment;
 import android.app.FragmentManager;
 import android.os.Bundle;
 
+import com.jparkie.hawleyretainer.HawleyRetainerPool;
+
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -51,6 +53,12 @@ public final class RetainerFragmentMap extends Fragment implements Map<String, O
     public void onDestroy() {
         super.onDestroy();
 
+        for (Object value : mObjectMap.values()) {
+            if (value instanceof HawleyRetainerPool) {
+                ((HawleyRetainerPool)value).clear();
+            }
+        }
+
         mObjectMap.clear();
     }
 
@@ -39,6 +39,7 @@ import javax.lang.model.type.TypeMirror;
  *      if (target.mObservable == null) {
  *          if (retainedMap.containsKey("mObservable")) {
  *              target.mObservable = (Observable<File>)retainedMap.get("mObservable");
+ *              Retainer.attachActivity(target.mObservable, activity);
  *          }
  *      }
  *  }
@@ -47,6 +48,7 @@ import javax.lang.model.type.TypeMirror;
  *  public void saveRetainedObjectMap(T target, Activity activity) {
  *      final RetainerFragmentMap retainedMap = RetainerFragmentMap.<T>findOrCreateRetainerFragmentMap(target, activity);
  *      if (target.mObservable != null) {
+ *          Retainer.detachActivity(target.mObservable, activity);
  *          retainedMap.put("mObservable", target.mObservable);
  *      }
  *  }
@@ -121,6 +123,7 @@ public final class HawleyRetainerDentist {
         for (FieldBinding fieldBinding : mFieldBindings) {
             builder.beginControlFlow("if (retainedMap.containsKey($S))", fieldBinding.mName)
                     .addStatement("target.$N = ($T)retainedMap.get($S)", fieldBinding.mName, fieldBinding.mType, fieldBinding.mName)
+                    .addStatement("$T.attachActivity(target.$N, activity)", ClassName.get(Retainer.class), fieldBinding.mName)
                     .endControlFlow();
         }
 
@@ -143,6 +146,7 @@ public final class HawleyRetainerDentist {
 
         for (FieldBinding fieldBinding : mFieldBindings) {
             builder.beginControlFlow("if (target.$N != null)", fieldBinding.mName)
+                    .addStatement("$T.detachActivity(target.$N, activity)", ClassName.get(Retainer.class), fieldBinding.mName)
                     .addStatement("retainedMap.put($S, target.$N)", fieldBinding.mName, fieldBinding.mName)
                     .endControlFlow();
         }